@@ -60,6 +60,14 @@ Caracter
     Entonces el conductor debe recibir una notificacin con ttulo "Recordatorio de reserva"
     Y el cuerpo debe contener "Tu reserva comienza en 15 minutos"
 
+  Escenario: No enviar recordatorio de una reserva cancelada
+    Dado que existe un conductor con id "1"
+    Y el conductor tiene una reserva que comienza en 15 minutos
+    Y el conductor tiene un token registrado
+    Y la reserva fue cancelada antes del recordatorio
+    Cuando el sistema enva notificacin de recordatorio automtico
+    Entonces el conductor no debe recibir una notificacin con ttulo "Recordatorio de reserva"
+
   Escenario: Enviar notificacin de finalizacin de reserva
     Dado que existe un conductor con id "1"
     Y el conductor tiene una reserva activa que est por finalizar
@@ -34,6 +34,24 @@ Caracter
     Entonces debo recibir un cdigo de estado 409
     Y la respuesta debe contener el mensaje "Parking spot not available"
 
+  Escenario: Rechazar una reserva que se superpone con otra del mismo espacio
+    Dado que estoy autenticado como conductor con id "2"
+    Y existe un estacionamiento con id "1" con espacios disponibles
+    Y el espacio "A-05" tiene una reserva de otro conductor desde "2025-11-15T10:00" hasta "2025-11-15T14:00"
+    Y el estacionamiento con id "1" tiene 10 espacios disponibles
+    Cuando envo una peticin POST a "/api/v1/reservations" con los siguientes datos:
+      | campo          | valor              |
+      | driverId       | 2                  |
+      | vehiclePlate   | XYZ-789            |
+      | parkingId      | 1                  |
+      | parkingSpotId  | A-05               |
+      | startTime      | 2025-11-15T12:00   |
+      | endTime        | 2025-11-15T16:00   |
+    Entonces debo recibir un cdigo de estado 409
+    Y la respuesta debe contener el mensaje "Parking spot not available"
+    Y el espacio "A-05" debe conservar su estado anterior
+    Y el estacionamiento con id "1" debe seguir teniendo 10 espacios disponibles
+
   Escenario: Actualizar el estado de una reserva a confirmada
     Dado que estoy autenticado como conductor
     Y existe una reserva con id "10" en estado "PENDING"
@@ -62,6 +80,18 @@ Caracter
     Y la respuesta debe contener una lista de 5 reservas
     Y cada reserva debe tener "id", "driverId", "parkingSpotId", "status", "startTime"
 
+  Escenario: Listar reservas de un estacionamiento con el nombre de cada conductor
+    Dado que estoy autenticado como propietario
+    Y mi estacionamiento con id "1" tiene las siguientes reservas:
+      | driverId | conductor    | parkingSpotId |
+      | 1        | Ana Torres   | A-01          |
+      | 2        | Luis Ramos   | A-02          |
+      | 3        | Carla Medina | A-03          |
+    Cuando envo una peticin GET a "/api/v1/reservations/parking/1"
+    Entonces debo recibir un cdigo de estado 200
+    Y la respuesta debe contener una lista de 3 reservas
+    Y cada reserva debe mostrar el "driverFullName" de su conductor
+
   Escenario: Obtener reservas de conductor filtradas por estado
     Dado que estoy autenticado como conductor con id "1"
     Y tengo 3 reservas en estado "CONFIRMED"
@@ -82,6 +112,15 @@ Caracter
     Y el estado de la reserva debe ser "COMPLETED"
     Y debe generarse un registro de pago asociado
 
+  Escenario: Liberar el espacio de una reserva vencida sin completar
+    Dado que existe una reserva con id "20" en estado "CONFIRMED"
+    Y la hora actual es posterior al "endTime" de la reserva
+    Y la reserva no fue completada ni cancelada
+    Cuando el sistema ejecuta la liberacin automtica de reservas vencidas
+    Y envo una peticin GET a "/api/v1/parkings/1/spots"
+    Entonces el espacio asociado debe quedar disponible nuevamente
+    Y el estacionamiento debe tener un espacio disponible adicional
+
   Escenario: Error al actualizar reserva que no me pertenece
     Dado que estoy autenticado como conductor con id "1"
     Y existe una reserva con id "15" que pertenece a otro conductor
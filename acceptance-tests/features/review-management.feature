@@ -89,3 +89,29 @@ Caracter
     Entonces debo recibir un cdigo de estado 200
     Y la respuesta debe contener solo reseas con rating >= 4
     Y debo ver exactamente 5 reseas
+
+  Escenario: Actualizar el promedio de calificaciones al crear una resea
+    Dado que el estacionamiento con id "1" tiene las siguientes reseas:
+      | rating |
+      | 5      |
+      | 4      |
+      | 3      |
+    Y estoy autenticado como conductor con id "2"
+    Y he completado una reserva en el estacionamiento con id "1"
+    Cuando envo una peticin POST a "/api/v1/reviews" con los siguientes datos:
+      | campo     | valor |
+      | driverId  | 2     |
+      | parkingId | 1     |
+      | rating    | 4     |
+    Y envo una peticin GET a "/api/v1/reviews/parking/1"
+    Entonces debo recibir un cdigo de estado 200
+    Y el promedio debe ser "4.0"
+
+  Escenario: Paginar reseas filtradas por calificacin mnima
+    Dado que el estacionamiento con id "1" tiene reseas con diferentes calificaciones
+    Y existen 25 reseas con calificacin de 4 o superior
+    Cuando envo una peticin GET a "/api/v1/reviews/parking/1?minRating=4&page=0&size=10"
+    Entonces debo recibir un cdigo de estado 200
+    Y la respuesta debe contener solo reseas con rating >= 4
+    Y debo ver exactamente 10 reseas
+    Y las reseas deben estar ordenadas por fecha de creacin descendente
@@ -0,0 +1,69 @@
+package upc.edu.pe.parkeoya.backend.benchmarks;
+
+import org.mockito.Mockito;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Wires command services for benchmarks the way {@code @InjectMocks} does in the unit tests:
+ * collaborators are matched by type, through the widest constructor and then any remaining fields.
+ */
+final class BenchmarkServices {
+
+    private BenchmarkServices() {
+    }
+
+    static <T> T newService(Class<T> serviceType, Object... collaborators) throws ReflectiveOperationException {
+        Constructor<?> constructor = Arrays.stream(serviceType.getDeclaredConstructors())
+            .max(Comparator.comparingInt(Constructor::getParameterCount))
+            .orElseThrow();
+        constructor.setAccessible(true);
+
+        Object[] arguments = Arrays.stream(constructor.getParameterTypes())
+            .map(type -> collaborator(serviceType, type, collaborators))
+            .toArray();
+        T service = serviceType.cast(constructor.newInstance(arguments));
+
+        for (Field field : serviceType.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            if (field.get(service) == null) {
+                Arrays.stream(collaborators)
+                    .filter(field.getType()::isInstance)
+                    .findFirst()
+                    .ifPresent(collaborator -> setField(field, service, collaborator));
+            }
+        }
+        return service;
+    }
+
+    /**
+     * Mocks that return fixed answers without recording invocations, so they neither leak memory
+     * nor show up in the allocation profile over a long run.
+     */
+    static <T> T stub(Class<T> type) {
+        return Mockito.mock(type, Mockito.withSettings().stubOnly());
+    }
+
+    private static void setField(Field field, Object target, Object value) {
+        try {
+            field.set(target, value);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot inject " + field, e);
+        }
+    }
+
+    private static Object collaborator(Class<?> serviceType, Class<?> type, Object[] collaborators) {
+        return Arrays.stream(collaborators)
+            .filter(type::isInstance)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException(
+                "No collaborator of type " + type.getName() + " for " + serviceType.getSimpleName()));
+    }
+}
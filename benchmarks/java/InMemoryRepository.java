@@ -0,0 +1,147 @@
+package upc.edu.pe.parkeoya.backend.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory stand-in for the Spring Data repositories, so benchmarks measure the command
+ * services instead of MySQL. Supports the CRUD methods plus derived {@code findBy}/{@code existsBy}
+ * queries over getter paths (e.g. {@code findByEmail}, {@code findByParkingId_ParkingId},
+ * {@code findByDriverIdAndStatus}).
+ */
+final class InMemoryRepository implements InvocationHandler {
+
+    private final Map<Object, Object> entities = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private InMemoryRepository() {
+    }
+
+    static <R> R of(Class<R> repositoryType) {
+        return repositoryType.cast(Proxy.newProxyInstance(
+            repositoryType.getClassLoader(), new Class<?>[]{repositoryType}, new InMemoryRepository()));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (name) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "InMemoryRepository" + List.of(proxy.getClass().getInterfaces());
+            };
+        }
+        if (method.isDefault()) {
+            return InvocationHandler.invokeDefault(proxy, method, args);
+        }
+        return switch (name) {
+            case "save", "saveAndFlush" -> save(args[0]);
+            case "saveAll" -> saveAll((Iterable<?>) args[0]);
+            case "findById" -> Optional.ofNullable(entities.get(args[0]));
+            case "existsById" -> entities.containsKey(args[0]);
+            case "findAll" -> new ArrayList<>(entities.values());
+            case "count" -> (long) entities.size();
+            case "deleteById" -> entities.remove(args[0]);
+            case "delete" -> entities.remove(idOf(args[0]));
+            case "deleteAll" -> {
+                entities.clear();
+                yield null;
+            }
+            case "flush" -> null;
+            default -> derivedQuery(method, args);
+        };
+    }
+
+    private Object save(Object entity) throws IllegalAccessException {
+        Field idField = idField(entity.getClass());
+        if (idField.get(entity) == null) {
+            idField.set(entity, idField.getType() == UUID.class ? UUID.randomUUID() : sequence.incrementAndGet());
+        }
+        entities.put(idField.get(entity), entity);
+        return entity;
+    }
+
+    private List<Object> saveAll(Iterable<?> batch) throws IllegalAccessException {
+        List<Object> saved = new ArrayList<>();
+        for (Object entity : batch) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
+    private Object derivedQuery(Method method, Object[] args) throws ReflectiveOperationException {
+        String name = method.getName();
+        String criteria;
+        if (name.startsWith("findBy")) {
+            criteria = name.substring("findBy".length());
+        } else if (name.startsWith("existsBy")) {
+            criteria = name.substring("existsBy".length());
+        } else {
+            throw new UnsupportedOperationException("Not supported by InMemoryRepository: " + method);
+        }
+
+        String[] properties = criteria.split("And");
+        List<Object> matches = new ArrayList<>();
+        for (Object entity : entities.values()) {
+            boolean matchesAll = true;
+            for (int i = 0; i < properties.length && matchesAll; i++) {
+                matchesAll = Objects.equals(property(entity, properties[i]), args[i]);
+            }
+            if (matchesAll) {
+                matches.add(entity);
+            }
+        }
+
+        Class<?> returnType = method.getReturnType();
+        if (returnType == boolean.class || returnType == Boolean.class) {
+            return !matches.isEmpty();
+        }
+        if (returnType == Optional.class) {
+            return matches.stream().findFirst();
+        }
+        if (Collection.class.isAssignableFrom(returnType)) {
+            return matches;
+        }
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    private static Object property(Object target, String path) throws ReflectiveOperationException {
+        Object value = target;
+        for (String segment : path.split("_")) {
+            if (value == null) {
+                return null;
+            }
+            value = value.getClass().getMethod("get" + segment).invoke(value);
+        }
+        return value;
+    }
+
+    private static Object idOf(Object entity) throws IllegalAccessException {
+        return idField(entity.getClass()).get(entity);
+    }
+
+    private static Field idField(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                Field field = current.getDeclaredField("id");
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException ignored) {
+                // Keep walking up to the aggregate root base class
+            }
+        }
+        throw new IllegalArgumentException("No id field on " + type.getName());
+    }
+}
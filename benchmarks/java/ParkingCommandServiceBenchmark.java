@@ -0,0 +1,85 @@
+package upc.edu.pe.parkeoya.backend.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import upc.edu.pe.parkeoya.backend.v1.deviceManagement.infrastructure.persistence.jpa.repositories.EdgeServerRepository;
+import upc.edu.pe.parkeoya.backend.v1.parkingManagement.application.internal.commandservices.ParkingCommandServiceImpl;
+import upc.edu.pe.parkeoya.backend.v1.parkingManagement.application.internal.outboundservices.acl.ExternalDeviceService;
+import upc.edu.pe.parkeoya.backend.v1.parkingManagement.domain.model.aggregates.Parking;
+import upc.edu.pe.parkeoya.backend.v1.parkingManagement.domain.model.commands.AddParkingSpotCommand;
+import upc.edu.pe.parkeoya.backend.v1.parkingManagement.domain.model.commands.CreateParkingCommand;
+import upc.edu.pe.parkeoya.backend.v1.parkingManagement.domain.model.commands.UpdateParkingSpotAvailabilityCommand;
+import upc.edu.pe.parkeoya.backend.v1.parkingManagement.domain.model.entities.ParkingSpot;
+import upc.edu.pe.parkeoya.backend.v1.parkingManagement.infrastructure.persistence.jpa.repositories.ParkingRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sensor-driven spot updates: {@code handle(UpdateParkingSpotAvailabilityCommand)} against a single
+ * parking, which is the find-mutate-save path every occupancy change goes through.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParkingCommandServiceBenchmark {
+
+    private static final long PARKING_ID = 1L;
+
+    @Param({"50", "500"})
+    private int spotsPerParking;
+
+    private ParkingCommandServiceImpl parkingCommandService;
+    private UUID[] spotIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        ParkingRepository parkingRepository = InMemoryRepository.of(ParkingRepository.class);
+        parkingCommandService = BenchmarkServices.newService(ParkingCommandServiceImpl.class,
+            parkingRepository,
+            InMemoryRepository.of(EdgeServerRepository.class),
+            BenchmarkServices.stub(ExternalDeviceService.class));
+
+        Parking parking = new Parking(new CreateParkingCommand(
+            1L, "Benchmark Parking", "Description", "Address",
+            -12.0463, -77.0428, 10.0f, spotsPerParking, spotsPerParking, 10, spotsPerParking / 10, "image.jpg"
+        ));
+        parking.setId(PARKING_ID);
+        for (int label = parking.getParkingSpots().size(); label < spotsPerParking; label++) {
+            parking.addParkingSpot(new AddParkingSpotCommand(PARKING_ID, "A" + label, "available"));
+        }
+        parkingRepository.save(parking);
+
+        spotIds = parking.getParkingSpots().stream()
+            .map(ParkingSpot::getId)
+            .toArray(UUID[]::new);
+        for (UUID spotId : spotIds) {
+            if (spotId == null) {
+                throw new IllegalStateException("Parking spots need their UUID assigned before persistence");
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Optional<String> updateSpotAvailability() {
+        return updateRandomSpot();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<String> updateSpotAvailabilityAllCores() {
+        return updateRandomSpot();
+    }
+
+    private Optional<String> updateRandomSpot() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID spotId = spotIds[random.nextInt(spotIds.length)];
+        String status = random.nextBoolean() ? "occupied" : "available";
+        return parkingCommandService.handle(new UpdateParkingSpotAvailabilityCommand(PARKING_ID, spotId, status));
+    }
+}
@@ -0,0 +1,92 @@
+package upc.edu.pe.parkeoya.backend.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import upc.edu.pe.parkeoya.backend.v1.deviceManagement.infrastructure.gateway.ParkingMqttService;
+import upc.edu.pe.parkeoya.backend.v1.notifications.application.service.NotificationService;
+import upc.edu.pe.parkeoya.backend.v1.notifications.domain.repository.FcmTokenRepository;
+import upc.edu.pe.parkeoya.backend.v1.reservations.application.internal.commandservices.ReservationCommandServiceImpl;
+import upc.edu.pe.parkeoya.backend.v1.reservations.application.internal.outboundservices.acl.ExternalParkingService;
+import upc.edu.pe.parkeoya.backend.v1.reservations.application.internal.outboundservices.acl.ExternalProfileService;
+import upc.edu.pe.parkeoya.backend.v1.reservations.domain.model.aggregates.Reservation;
+import upc.edu.pe.parkeoya.backend.v1.reservations.domain.model.commands.CreateReservationCommand;
+import upc.edu.pe.parkeoya.backend.v1.reservations.infrastructure.persistence.jpa.repositories.ReservationRepository;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Reservation creation: {@code handle(CreateReservationCommand)} with the ACL lookups answered
+ * instantly, so the numbers show the service's own cost and what it adds per reservation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReservationCommandServiceBenchmark {
+
+    private static final long PARKING_ID = 1L;
+    private static final int DRIVERS = 1_000;
+    private static final int SPOTS = 500;
+
+    private ReservationCommandServiceImpl reservationCommandService;
+    private UUID[] spotIds;
+
+    @Setup(Level.Trial)
+    public void setUpSpots() {
+        spotIds = new UUID[SPOTS];
+        for (int i = 0; i < SPOTS; i++) {
+            spotIds[i] = UUID.randomUUID();
+        }
+    }
+
+    // Fresh repositories per iteration keep the reservation table from growing across the run
+    @Setup(Level.Iteration)
+    public void setUpService() throws ReflectiveOperationException {
+        ExternalParkingService externalParkingService = BenchmarkServices.stub(ExternalParkingService.class);
+        when(externalParkingService.getSpotLabel(any(UUID.class), anyLong())).thenReturn("A1");
+        when(externalParkingService.getParkingRatePerHour(anyLong())).thenReturn(10.0f);
+
+        ExternalProfileService externalProfileService = BenchmarkServices.stub(ExternalProfileService.class);
+        when(externalProfileService.getDriverFullNameByUserId(anyLong())).thenReturn("John Doe");
+
+        reservationCommandService = BenchmarkServices.newService(ReservationCommandServiceImpl.class,
+            InMemoryRepository.of(ReservationRepository.class),
+            InMemoryRepository.of(FcmTokenRepository.class),
+            externalParkingService,
+            externalProfileService,
+            BenchmarkServices.stub(ParkingMqttService.class),
+            BenchmarkServices.stub(NotificationService.class));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Optional<Reservation> createReservation() throws IOException {
+        return createRandomReservation();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<Reservation> createReservationAllCores() throws IOException {
+        return createRandomReservation();
+    }
+
+    private Optional<Reservation> createRandomReservation() throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        return reservationCommandService.handle(new CreateReservationCommand(
+            (long) random.nextInt(1, DRIVERS + 1), PARKING_ID, spotIds[random.nextInt(SPOTS)],
+            startTime, startTime.plusHours(2),
+            2
+        ));
+    }
+}
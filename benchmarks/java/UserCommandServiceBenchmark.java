@@ -0,0 +1,100 @@
+package upc.edu.pe.parkeoya.backend.benchmarks;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import upc.edu.pe.parkeoya.backend.v1.iam.application.internal.commandservices.UserCommandServiceImpl;
+import upc.edu.pe.parkeoya.backend.v1.iam.application.internal.outboundservices.acl.ExternalProfileService;
+import upc.edu.pe.parkeoya.backend.v1.iam.application.internal.outboundservices.hashing.HashingService;
+import upc.edu.pe.parkeoya.backend.v1.iam.application.internal.outboundservices.tokens.TokenService;
+import upc.edu.pe.parkeoya.backend.v1.iam.domain.model.aggregates.User;
+import upc.edu.pe.parkeoya.backend.v1.iam.domain.model.commands.SignInCommand;
+import upc.edu.pe.parkeoya.backend.v1.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import upc.edu.pe.parkeoya.backend.v1.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Sign-in: {@code handle(SignInCommand)} with real BCrypt matching and real jjwt signing, so the
+ * CPU cost of a login burst shows up at each BCrypt strength.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserCommandServiceBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final String PASSWORD = "TestPassword123!";
+    private static final SecretKey SIGNING_KEY =
+        Keys.hmacShaKeyFor("parkeoya-benchmark-signing-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    @Param({"4", "10"})
+    private int bcryptStrength;
+
+    private UserCommandServiceImpl userCommandService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+
+        HashingService hashingService = BenchmarkServices.stub(HashingService.class);
+        when(hashingService.matches(any(), any())).thenAnswer(invocation ->
+            passwordEncoder.matches(invocation.<CharSequence>getArgument(0), invocation.<String>getArgument(1)));
+
+        TokenService tokenService = BenchmarkServices.stub(TokenService.class);
+        when(tokenService.generateToken(anyString())).thenAnswer(invocation -> Jwts.builder()
+            .subject(invocation.<String>getArgument(0))
+            .issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(7)))
+            .signWith(SIGNING_KEY)
+            .compact());
+
+        UserRepository userRepository = InMemoryRepository.of(UserRepository.class);
+        String hashedPassword = passwordEncoder.encode(PASSWORD);
+        for (int i = 1; i <= USERS; i++) {
+            userRepository.save(new User(email(i), hashedPassword));
+        }
+
+        userCommandService = BenchmarkServices.newService(UserCommandServiceImpl.class,
+            userRepository,
+            InMemoryRepository.of(RoleRepository.class),
+            hashingService,
+            tokenService,
+            BenchmarkServices.stub(ExternalProfileService.class));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Optional<ImmutablePair<User, String>> signIn() {
+        return signInRandomUser();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<ImmutablePair<User, String>> signInAllCores() {
+        return signInRandomUser();
+    }
+
+    private Optional<ImmutablePair<User, String>> signInRandomUser() {
+        int user = ThreadLocalRandom.current().nextInt(1, USERS + 1);
+        return userCommandService.handle(new SignInCommand(email(user), PASSWORD));
+    }
+
+    private static String email(int user) {
+        return "driver" + user + "@parkeoya.test";
+    }
+}
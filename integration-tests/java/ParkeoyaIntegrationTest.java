@@ -1,13 +1,16 @@
 package upc.edu.pe.parkeoya.backend.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -18,12 +21,14 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @Testcontainers
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureWebMvc
+@AutoConfigureObservability
 public class ParkeoyaIntegrationTest {
 
     @Container
@@ -38,6 +43,7 @@ public class ParkeoyaIntegrationTest {
         registry.add("spring.datasource.username", mysql::getUsername);
         registry.add("spring.datasource.password", mysql::getPassword);
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("management.endpoints.web.exposure.include", () -> "health,prometheus");
     }
 
     @LocalServerPort
@@ -133,6 +139,25 @@ public class ParkeoyaIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void testPrometheusEndpoint_IntegrationTest() throws Exception {
+        // http.server.requests is recorded by the observation filter, which the bare MockMvc from setUp() skips
+        Filter observationFilter = webApplicationContext
+                .getBean("webMvcObservationFilter", FilterRegistrationBean.class)
+                .getFilter();
+        MockMvc observedMockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(observationFilter)
+                .build();
+
+        observedMockMvc.perform(get("/api/v1/parkings"))
+                .andExpect(status().isOk());
+
+        observedMockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(matchesPattern(
+                        "(?s).*http_server_requests_seconds_count\\{[^}]*uri=\"/api/v1/parkings\"[^}]*}.*")));
+    }
+
     @Test
     void testDatabaseConnection_IntegrationTest() {
         // Test that the database connection is working
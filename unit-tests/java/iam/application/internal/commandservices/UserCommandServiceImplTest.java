@@ -87,6 +87,28 @@ class UserCommandServiceImplTest {
         verify(tokenService).generateToken(testUser.getEmail());
     }
 
+    @Test
+    void handleSignInCommand_WhenSignedInTwice_ShouldIssueTokenOnEachSignIn() {
+        // Arrange
+        SignInCommand command = new SignInCommand("test@test.com", "password");
+
+        when(userRepository.findByEmail(command.email())).thenReturn(Optional.of(testUser));
+        when(hashingService.matches(command.password(), testUser.getPassword())).thenReturn(true);
+        when(tokenService.generateToken(testUser.getEmail())).thenReturn("first-jwt-token", "second-jwt-token");
+
+        // Act
+        Optional<ImmutablePair<User, String>> firstResult = userCommandService.handle(command);
+        Optional<ImmutablePair<User, String>> secondResult = userCommandService.handle(command);
+
+        // Assert
+        assertTrue(firstResult.isPresent());
+        assertTrue(secondResult.isPresent());
+        assertEquals("first-jwt-token", firstResult.get().getRight());
+        assertEquals("second-jwt-token", secondResult.get().getRight());
+
+        verify(tokenService, times(2)).generateToken(testUser.getEmail());
+    }
+
     @Test
     void handleSignInCommand_WhenUserNotFound_ShouldThrowException() {
         // Arrange
@@ -172,6 +194,7 @@ class UserCommandServiceImplTest {
         
         verify(userRepository).existsByEmail(command.email());
         verify(roleRepository, never()).findByName(any());
+        verify(hashingService, never()).encode(any());
         verify(userRepository, never()).save(any());
     }
 
@@ -229,6 +252,27 @@ class UserCommandServiceImplTest {
         );
     }
 
+    @Test
+    void handleSignUpParkingOwnerCommand_WhenEmailExists_ShouldThrowException() {
+        // Arrange
+        SignUpParkingOwnerCommand command = new SignUpParkingOwnerCommand(
+            "existing@test.com", "password", "Jane Doe", "Lima", 
+            "Peru", "123456789", "My Company", "12345678901"
+        );
+
+        when(userRepository.existsByEmail(command.email())).thenReturn(true);
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, 
+            () -> userCommandService.handle(command));
+        assertEquals("Email already exists", exception.getMessage());
+
+        verify(userRepository).existsByEmail(command.email());
+        verify(roleRepository, never()).findByName(any());
+        verify(userRepository, never()).save(any());
+        verify(externalProfileService, never()).createParkingOwner(any(), any(), any(), any(), any(), any(), any());
+    }
+
     @Test
     void handleSignUpParkingOwnerCommand_WhenProfileCreationFails_ShouldThrowException() {
         // Arrange
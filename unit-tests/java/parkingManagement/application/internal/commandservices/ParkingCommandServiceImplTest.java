@@ -3,9 +3,13 @@ package upc.edu.pe.parkeoya.backend.v1.parkingManagement.application.internal.co
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import upc.edu.pe.parkeoya.backend.v1.deviceManagement.domain.model.aggregates.EdgeServer;
 import upc.edu.pe.parkeoya.backend.v1.deviceManagement.infrastructure.persistence.jpa.repositories.EdgeServerRepository;
 import upc.edu.pe.parkeoya.backend.v1.parkingManagement.application.internal.outboundservices.acl.ExternalDeviceService;
@@ -18,7 +22,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -123,6 +127,8 @@ class ParkingCommandServiceImplTest {
         verify(parkingRepository).findById(command.parkingId());
         verify(parkingRepository, never()).save(any());
         verify(externalDeviceService, never()).createDevice(any(), any(), any(), any(), any());
+        verify(edgeServerRepository, never()).findByParkingId_ParkingId(any());
+        verifyNoInteractions(externalDeviceService);
     }
 
     @Test
@@ -172,6 +178,63 @@ class ParkingCommandServiceImplTest {
         verify(parkingRepository).save(testParking);
     }
 
+    @Test
+    void handleUpdateParkingSpotAvailabilityCommand_WhenSameSpotUpdatedRepeatedly_ShouldApplyStatusesInOrder() {
+        // Arrange
+        UUID spotId = UUID.randomUUID();
+        UpdateParkingSpotAvailabilityCommand occupiedCommand = new UpdateParkingSpotAvailabilityCommand(
+            1L, spotId, "occupied"
+        );
+        UpdateParkingSpotAvailabilityCommand availableCommand = new UpdateParkingSpotAvailabilityCommand(
+            1L, spotId, "available"
+        );
+        Parking parking = mock(Parking.class);
+        ParkingSpot mockParkingSpot = mock(ParkingSpot.class);
+
+        when(parkingRepository.findById(1L)).thenReturn(Optional.of(parking));
+        when(parking.getParkingSpot(spotId)).thenReturn(mockParkingSpot);
+        when(parkingRepository.save(parking)).thenReturn(parking);
+
+        // Act
+        Optional<String> firstResult = parkingCommandService.handle(occupiedCommand);
+        Optional<String> secondResult = parkingCommandService.handle(availableCommand);
+
+        // Assert
+        assertTrue(firstResult.isPresent());
+        assertTrue(secondResult.isPresent());
+        assertTrue(secondResult.get().contains("availability updated to available"));
+
+        InOrder inOrder = inOrder(mockParkingSpot);
+        inOrder.verify(mockParkingSpot).updateStatus("occupied");
+        inOrder.verify(mockParkingSpot).updateStatus("available");
+        verifyNoInteractions(edgeServerRepository, externalDeviceService);
+    }
+
+    @Test
+    void handleUpdateParkingSpotAvailabilityCommand_WhenDifferentSpotsOfSameParking_ShouldUpdateEachSpot() {
+        // Arrange
+        UUID firstSpotId = UUID.randomUUID();
+        UUID secondSpotId = UUID.randomUUID();
+        Parking parking = mock(Parking.class);
+        ParkingSpot firstParkingSpot = mock(ParkingSpot.class);
+        ParkingSpot secondParkingSpot = mock(ParkingSpot.class);
+
+        when(parkingRepository.findById(1L)).thenReturn(Optional.of(parking));
+        when(parking.getParkingSpot(firstSpotId)).thenReturn(firstParkingSpot);
+        when(parking.getParkingSpot(secondSpotId)).thenReturn(secondParkingSpot);
+        when(parkingRepository.save(parking)).thenReturn(parking);
+
+        // Act
+        parkingCommandService.handle(new UpdateParkingSpotAvailabilityCommand(1L, firstSpotId, "occupied"));
+        parkingCommandService.handle(new UpdateParkingSpotAvailabilityCommand(1L, secondSpotId, "available"));
+
+        // Assert
+        verify(firstParkingSpot).updateStatus("occupied");
+        verify(firstParkingSpot, never()).updateStatus("available");
+        verify(secondParkingSpot).updateStatus("available");
+        verify(secondParkingSpot, never()).updateStatus("occupied");
+    }
+
     @Test
     void handleUpdateParkingSpotAvailabilityCommand_WhenParkingNotFound_ShouldThrowException() {
         // Arrange
@@ -212,15 +275,17 @@ class ParkingCommandServiceImplTest {
         verify(parkingRepository, never()).save(any());
     }
 
-    @Test
-    void handleUpdateAvailableParkingSpotCountCommand_WhenValidCommand_ShouldUpdateCount() {
+    @ParameterizedTest
+    @CsvSource({"5, increment", "1, decrement"})
+    void handleUpdateAvailableParkingSpotCountCommand_WhenValidCommand_ShouldUpdateCount(int count, String operation) {
         // Arrange
         UpdateAvailableParkingSpotCountCommand command = new UpdateAvailableParkingSpotCountCommand(
-            1L, 5, "increment"
+            1L, count, operation
         );
+        Parking parking = mock(Parking.class);
         
-        when(parkingRepository.findById(command.parkingId())).thenReturn(Optional.of(testParking));
-        when(parkingRepository.save(testParking)).thenReturn(testParking);
+        when(parkingRepository.findById(command.parkingId())).thenReturn(Optional.of(parking));
+        when(parkingRepository.save(parking)).thenReturn(parking);
 
         // Act
         Optional<String> result = parkingCommandService.handle(command);
@@ -230,8 +295,9 @@ class ParkingCommandServiceImplTest {
         assertTrue(result.get().contains("Available parking spots count updated"));
         
         verify(parkingRepository).findById(command.parkingId());
-        verify(testParking).updateAvailableSpotsCount(5, "increment");
-        verify(parkingRepository).save(testParking);
+        verify(parking).updateAvailableSpotsCount(count, operation);
+        verify(parking, times(1)).updateAvailableSpotsCount(anyInt(), anyString());
+        verify(parkingRepository).save(parking);
     }
 
     @Test
@@ -251,4 +317,23 @@ class ParkingCommandServiceImplTest {
         verify(parkingRepository).findById(command.parkingId());
         verify(parkingRepository, never()).save(any());
     }
+
+    @Test
+    void handleUpdateAvailableParkingSpotCountCommand_WhenSaveFailsWithoutVersionConflict_ShouldNotRetry() {
+        // Arrange
+        UpdateAvailableParkingSpotCountCommand command = new UpdateAvailableParkingSpotCountCommand(
+            1L, 1, "decrement"
+        );
+        Parking parking = mock(Parking.class);
+
+        when(parkingRepository.findById(command.parkingId())).thenReturn(Optional.of(parking));
+        when(parkingRepository.save(parking)).thenThrow(new DataIntegrityViolationException("available_spots check"));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> parkingCommandService.handle(command));
+
+        verify(parkingRepository, times(1)).findById(command.parkingId());
+        verify(parking, times(1)).updateAvailableSpotsCount(1, "decrement");
+        verify(parkingRepository, times(1)).save(parking);
+    }
 }
\ No newline at end of file
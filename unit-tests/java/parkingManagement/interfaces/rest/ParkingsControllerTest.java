@@ -2,6 +2,7 @@ package upc.edu.pe.parkeoya.backend.v1.parkingManagement.interfaces.rest;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -19,7 +20,9 @@ import upc.edu.pe.parkeoya.backend.v1.parkingManagement.domain.services.ParkingQ
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -74,6 +77,7 @@ class ParkingsControllerTest {
                 "imageUrl": "image.jpg"
             }
             """;
+        ArgumentCaptor<CreateParkingCommand> commandCaptor = ArgumentCaptor.forClass(CreateParkingCommand.class);
         
         when(parkingCommandService.handle(any(CreateParkingCommand.class))).thenReturn(Optional.of(testParking));
 
@@ -83,6 +87,10 @@ class ParkingsControllerTest {
                 .content(createParkingJson))
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+
+        verify(parkingCommandService).handle(commandCaptor.capture());
+        assertEquals(-12.0463, commandCaptor.getValue().lat());
+        assertEquals(-77.0428, commandCaptor.getValue().lng());
     }
 
     @Test
@@ -109,7 +117,7 @@ class ParkingsControllerTest {
     @Test
     void getAllParkings_WhenParkingsExist_ShouldReturnParkingsList() throws Exception {
         // Arrange
-        List<Parking> parkings = List.of(testParking);
+        List<Parking> parkings = List.of(testParking, testParking, testParking);
         
         when(parkingQueryService.handle(any(GetAllParkingQuery.class)))
             .thenReturn(parkings);
@@ -118,7 +126,9 @@ class ParkingsControllerTest {
         mockMvc.perform(get("/api/v1/parkings"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].name").value("Test Parking"));
     }
 
     @Test
@@ -176,7 +186,8 @@ class ParkingsControllerTest {
         mockMvc.perform(get("/api/v1/parkings/{parkingId}/spots", parkingId))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$.length()").value(1));
     }
 
     @Test
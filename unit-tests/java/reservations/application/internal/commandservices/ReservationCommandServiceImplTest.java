@@ -106,6 +106,7 @@ class ReservationCommandServiceImplTest {
         verify(externalParkingService).updateParkingSpotAvailability(
             createCommand.parkingId(), createCommand.parkingSpotId(), "RESERVED"
         );
+        verify(notificationService, never()).sendNotificationToUser(any(), any(), any());
     }
 
     @Test
@@ -132,6 +133,8 @@ class ReservationCommandServiceImplTest {
         verify(externalParkingService).getParkingRatePerHour(createCommand.parkingId());
         verify(reservationRepository, never()).save(any());
         verify(externalParkingService, never()).updateParkingSpotAvailability(any(), any(), any());
+        verify(externalParkingService, never()).updateAvailableSpotsCount(any(), any(), any());
+        verifyNoInteractions(fcmTokenRepository, notificationService, parkingMqttService);
     }
 
     @Test
@@ -158,6 +161,37 @@ class ReservationCommandServiceImplTest {
         );
     }
 
+    @Test
+    void handleCreateReservationCommand_WhenDifferentSpotsOfSameParking_ShouldResolveEachSpotLabel() throws IOException {
+        // Arrange
+        UUID otherParkingSpotId = UUID.randomUUID();
+        CreateReservationCommand otherSpotCommand = new CreateReservationCommand(
+            2L, createCommand.parkingId(), otherParkingSpotId,
+            createCommand.startTime(), createCommand.endTime(),
+            2
+        );
+
+        when(externalProfileServiceReservation.getDriverFullNameByUserId(anyLong()))
+            .thenReturn("John Doe");
+        when(externalParkingService.getSpotLabel(parkingSpotId, createCommand.parkingId()))
+            .thenReturn("A1");
+        when(externalParkingService.getSpotLabel(otherParkingSpotId, createCommand.parkingId()))
+            .thenReturn("A2");
+        when(externalParkingService.getParkingRatePerHour(createCommand.parkingId()))
+            .thenReturn(10.0f);
+        when(reservationRepository.save(any(Reservation.class))).thenReturn(testReservation);
+
+        // Act
+        reservationCommandService.handle(createCommand);
+        reservationCommandService.handle(otherSpotCommand);
+
+        // Assert
+        verify(externalParkingService).getSpotLabel(parkingSpotId, createCommand.parkingId());
+        verify(externalParkingService).getSpotLabel(otherParkingSpotId, createCommand.parkingId());
+        verify(externalProfileServiceReservation).getDriverFullNameByUserId(1L);
+        verify(externalProfileServiceReservation).getDriverFullNameByUserId(2L);
+    }
+
     @Test
     void handleUpdateReservationStatusCommand_WhenValidData_ShouldUpdateStatus() {
         // Arrange
@@ -191,6 +225,8 @@ class ReservationCommandServiceImplTest {
         
         verify(reservationRepository).findById(updateCommand.reservationId());
         verify(reservationRepository, never()).save(any());
+        verify(externalParkingService, never()).updateParkingSpotAvailability(any(), any(), any());
+        verify(externalParkingService, never()).updateAvailableSpotsCount(any(), any(), any());
     }
 
     @Test
@@ -214,6 +250,7 @@ class ReservationCommandServiceImplTest {
         verify(externalParkingService).updateAvailableSpotsCount(
             testReservation.getParkingId(), 1, "increment"
         );
+        verifyNoMoreInteractions(externalParkingService);
     }
 
     @Test
@@ -285,4 +322,34 @@ class ReservationCommandServiceImplTest {
             contains("Tu reserva ha sido confirmada")
         );
     }
+
+    @Test
+    void handleCreateReservationCommand_WhenMultipleFcmTokensExist_ShouldNotifyEveryToken() throws IOException {
+        // Arrange
+        FcmToken phoneToken = mock(FcmToken.class);
+        FcmToken tabletToken = mock(FcmToken.class);
+        when(phoneToken.getToken()).thenReturn("phone-fcm-token");
+        when(tabletToken.getToken()).thenReturn("tablet-fcm-token");
+
+        when(externalProfileServiceReservation.getDriverFullNameByUserId(createCommand.driverId()))
+            .thenReturn("John Doe");
+        when(externalParkingService.getSpotLabel(createCommand.parkingSpotId(), createCommand.parkingId()))
+            .thenReturn("A1");
+        when(externalParkingService.getParkingRatePerHour(createCommand.parkingId()))
+            .thenReturn(10.0f);
+        when(reservationRepository.save(any(Reservation.class))).thenReturn(testReservation);
+        when(fcmTokenRepository.findByUserId(createCommand.driverId()))
+            .thenReturn(List.of(phoneToken, tabletToken));
+
+        // Act
+        reservationCommandService.handle(createCommand);
+
+        // Assert
+        verify(notificationService).sendNotificationToUser(
+            eq("phone-fcm-token"), eq("Reserva confirmada"), anyString()
+        );
+        verify(notificationService).sendNotificationToUser(
+            eq("tablet-fcm-token"), eq("Reserva confirmada"), anyString()
+        );
+    }
 }
\ No newline at end of file
@@ -120,7 +120,11 @@ class ReservationsControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(jsonPath("$[0].driverId").value(1L))
+                .andExpect(jsonPath("$[0].parkingId").value(1L))
+                .andExpect(jsonPath("$[0].status").value("ACTIVE"));
     }
 
     @Test